@@ -102,6 +102,12 @@ public final class Currency {
      */
     private final static Map<String, Currency> CODE_TO_CURRENCY = Maps.sorted();
 
+    /**
+     * Every bundled {@link Locale} read from {@link CurrencyProvider#DATA} to its column in each
+     * {@link Currency#symbolIndices} row. Only modified by {@link #register(DataInput)}.
+     */
+    private final static Map<Locale, Integer> LOCALE_TO_INDEX = Maps.ordered();
+
     // Consumes {@link CurrencyProvider#DATA} creating a {@link Currency} for each record.
     static {
         try {
@@ -113,7 +119,9 @@ public final class Currency {
 
     /**
      * Intended to only be called by the static init above. A test exists to verify the {@link DataInput} is consumed
-     * and further operations will fail with an {@link java.io.EOFException}.
+     * and further operations will fail with an {@link java.io.EOFException}. Registering again creates new
+     * {@link Currency} instances replacing those in {@link #CODE_TO_CURRENCY}, each building its own
+     * {@link #symbolIndices} row on first use; the same data assigns no new {@link #LOCALE_TO_INDEX} entries.
      */
     static void register(final DataInput data) throws IOException {
         final int count = data.readInt();
@@ -124,8 +132,11 @@ public final class Currency {
             final int numericCode = data.readInt();
             final String defaultSymbol = data.readUTF();
             final Set<Locale> locales = LocaleSupport.readLocales(data);
+            addLocaleIndices(locales);
 
-            final List<MultiLocaleValue<String>> symbolToLocales = readSymbolToLocales(data);
+            final List<String> symbols = Lists.array();
+            final List<MultiLocaleValue<String>> symbolToLocales = readSymbolToLocales(data, symbols);
+            symbols.add(defaultSymbol);
             symbolToLocales.add(MultiLocaleValue.with(defaultSymbol, Predicates.always(), LocaleSupport.IGNORE_NORWAY));
 
             new Currency(currencyCode,
@@ -133,25 +144,42 @@ public final class Currency {
                 numericCode,
                 defaultSymbol,
                 locales,
+                symbols.toArray(new String[symbols.size()]),
                 symbolToLocales);
         }
     }
 
-    private static List<MultiLocaleValue<String>> readSymbolToLocales(final DataInput data) throws IOException {
+    private static List<MultiLocaleValue<String>> readSymbolToLocales(final DataInput data,
+                                                                      final List<String> symbols) throws IOException {
         final int symbolToLocaleCount = data.readInt();
         final List<MultiLocaleValue<String>> symbolToLocales = Lists.array();
 
         for (int i = 0; i < symbolToLocaleCount; i++) {
             final String symbol = data.readUTF();
+            symbols.add(symbol);
+            final Set<Locale> locales = LocaleSupport.readLocales(data);
+            addLocaleIndices(locales);
 
             symbolToLocales.add(MultiLocaleValue.with(symbol,
-                LocaleSupport.readLocales(data)::contains,
+                locales::contains,
                 LocaleSupport.IGNORE_NORWAY));
         }
 
         return symbolToLocales;
     }
 
+    /**
+     * Assigns the next index to any {@link Locale} not already present in {@link #LOCALE_TO_INDEX}. Registering the
+     * same data again assigns no new indices.
+     */
+    private static void addLocaleIndices(final Set<Locale> locales) {
+        for (final Locale locale : locales) {
+            if (false == LOCALE_TO_INDEX.containsKey(locale)) {
+                LOCALE_TO_INDEX.put(locale, LOCALE_TO_INDEX.size());
+            }
+        }
+    }
+
     /**
      * Private ctor, called only by static initializer.
      */
@@ -160,12 +188,14 @@ public final class Currency {
                      final int numericCode,
                      final String defaultSymbol,
                      final Set<Locale> locales,
+                     final String[] symbols,
                      final List<MultiLocaleValue<String>> symbolToLocales) {
         super();
         this.currencyCode = currencyCode;
         this.defaultFractionDigits = defaultFractionDigits;
         this.numericCode = numericCode;
         this.defaultSymbol = defaultSymbol;
+        this.symbols = symbols;
         this.symbolToLocales = symbolToLocales;
 
         CODE_TO_CURRENCY.put(currencyCode, this);
@@ -189,11 +219,53 @@ public final class Currency {
     public String getSymbol(final Locale locale) {
         checkLocale(locale);
 
+        final Integer localeIndex = LOCALE_TO_INDEX.get(locale);
+        return null != localeIndex ?
+            this.symbols[this.symbolIndices()[localeIndex]] :
+            this.resolveSymbol(locale);
+    }
+
+    /**
+     * Lazily builds this currency's row of the locale x currency matrix, holding the index into {@link #symbols}
+     * for every bundled {@link Locale}. The row is completed before it is published, so a race only builds it twice.
+     */
+    private int[] symbolIndices() {
+        int[] symbolIndices = this.symbolIndices;
+        if (null == symbolIndices) {
+            symbolIndices = new int[LOCALE_TO_INDEX.size()];
+            for (final Map.Entry<Locale, Integer> localeAndIndex : LOCALE_TO_INDEX.entrySet()) {
+                symbolIndices[localeAndIndex.getValue()] = this.symbolIndex(this.resolveSymbol(localeAndIndex.getKey()));
+            }
+            this.symbolIndices = symbolIndices;
+        }
+        return symbolIndices;
+    }
+
+    private int symbolIndex(final String symbol) {
+        final String[] symbols = this.symbols;
+        int i = 0;
+        while (false == symbols[i].equals(symbol)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Resolves the symbol by walking {@link #symbolToLocales} including alternatives.
+     */
+    String resolveSymbol(final Locale locale) {
         return locale.toLanguageTag().equals("und") ?
             this.defaultSymbol :
             MultiLocaleValue.findValue(this.symbolToLocales, locale);
     }
 
+    private volatile int[] symbolIndices;
+
+    /**
+     * Every symbol read for this currency with the {@link #defaultSymbol} last.
+     */
+    private final String[] symbols;
+
     private final List<MultiLocaleValue<String>> symbolToLocales;
 
     private final String defaultSymbol;
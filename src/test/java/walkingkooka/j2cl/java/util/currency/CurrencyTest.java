@@ -215,6 +215,28 @@ public final class CurrencyTest implements ShadedClassTesting<Currency>,
             Locale.forLanguageTag("qrstuv"));
     }
 
+    @Test
+    public void testGetSymbolUnknownLocaleWithCountryAndVariant() {
+        final Locale locale = new Locale("qrstuv", "AU", "VARIANT");
+        final Currency currency = Currency.getInstance("AUD");
+
+        this.checkLocale(currency,
+            java.util.Currency.getInstance("AUD"),
+            locale);
+        this.checkEquals(currency.resolveSymbol(locale), currency.getSymbol(locale));
+    }
+
+    @Test
+    public void testGetSymbolMatchesResolveSymbolAllLocales() {
+        for (final Currency currency : Currency.getAvailableCurrencies()) {
+            for (final Locale locale : Locale.getAvailableLocales()) {
+                this.checkEquals(currency.resolveSymbol(locale),
+                    currency.getSymbol(locale),
+                    () -> currency + " getSymbol for locale.languageTag: " + locale.toLanguageTag());
+            }
+        }
+    }
+
     private void check(final Currency currency) {
         this.check(currency, java.util.Currency.getInstance(currency.getCurrencyCode()));
     }